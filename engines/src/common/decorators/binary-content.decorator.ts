@@ -0,0 +1,10 @@
+import { SetMetadata } from '@nestjs/common';
+
+export const BINARY_CONTENT_KEY = 'binaryContent';
+
+/**
+ * Marks a controller or route as able to answer with a binary encoding
+ * (currently CBOR) when the client prefers it in the Accept header.
+ * Handled by ContentNegotiationInterceptor; JSON remains the default.
+ */
+export const BinaryContent = () => SetMetadata(BINARY_CONTENT_KEY, true);
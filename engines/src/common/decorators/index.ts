@@ -2,3 +2,4 @@
 export * from './api.decorator';
 export * from './request.decorator';
 export * from './validation.decorator';
+export * from './binary-content.decorator';
@@ -0,0 +1,60 @@
+import {
+  Injectable,
+  NestInterceptor,
+  ExecutionContext,
+  CallHandler,
+  StreamableFile,
+} from '@nestjs/common';
+import { Reflector } from '@nestjs/core';
+import { Observable } from 'rxjs';
+import { map } from 'rxjs/operators';
+import { Request, Response } from 'express';
+import { BINARY_CONTENT_KEY } from '../decorators/binary-content.decorator';
+import { encodeCbor } from '../utils/cbor.utils';
+
+export const CBOR_MEDIA_TYPE = 'application/cbor';
+
+/**
+ * Interceptor that encodes responses as CBOR for routes marked with
+ * @BinaryContent() when the client ranks CBOR above JSON in its Accept header.
+ *
+ * Must be registered as the outermost global interceptor so it encodes the
+ * envelope produced by TransformInterceptor rather than the raw handler result.
+ * Clients asking for other binary types (e.g. Smile) get JSON.
+ */
+@Injectable()
+export class ContentNegotiationInterceptor implements NestInterceptor {
+  constructor(private readonly reflector: Reflector) {}
+
+  intercept(context: ExecutionContext, next: CallHandler): Observable<any> {
+    const enabled = this.reflector.getAllAndOverride<boolean>(BINARY_CONTENT_KEY, [
+      context.getHandler(),
+      context.getClass(),
+    ]);
+
+    if (!enabled) {
+      return next.handle();
+    }
+
+    const request = context.switchToHttp().getRequest<Request>();
+    const response = context.switchToHttp().getResponse<Response>();
+
+    // JSON and CBOR answers share a URL, so shared caches must key on Accept
+    response.vary('Accept');
+
+    if (request.accepts(['application/json', CBOR_MEDIA_TYPE]) !== CBOR_MEDIA_TYPE) {
+      return next.handle();
+    }
+
+    return next.handle().pipe(
+      map(data => {
+        if (data === undefined || data === null || data instanceof StreamableFile) {
+          return data;
+        }
+
+        const payload = encodeCbor(data);
+        return new StreamableFile(payload, { type: CBOR_MEDIA_TYPE, length: payload.length });
+      }),
+    );
+  }
+}
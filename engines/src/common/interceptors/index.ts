@@ -1,3 +1,4 @@
 // Export all interceptors from a single entry point
 export * from './logging.interceptor';
 export * from './transform.interceptor';
+export * from './content-negotiation.interceptor';
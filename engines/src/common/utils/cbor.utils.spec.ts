@@ -0,0 +1,123 @@
+import { encodeCbor } from './cbor.utils';
+
+const hex = (value: unknown): string => encodeCbor(value).toString('hex');
+
+describe('encodeCbor', () => {
+  describe('unsigned integers', () => {
+    it.each([
+      [0, '00'],
+      [23, '17'],
+      [24, '1818'],
+      [255, '18ff'],
+      [256, '190100'],
+      [65535, '19ffff'],
+      [65536, '1a00010000'],
+      [2 ** 32 - 1, '1affffffff'],
+      [2 ** 32, '1b0000000100000000'],
+      [Number.MAX_SAFE_INTEGER, '1b001fffffffffffff'],
+    ])('encodes %p', (value, expected) => {
+      expect(hex(value)).toBe(expected);
+    });
+  });
+
+  describe('negative integers', () => {
+    it.each([
+      [-1, '20'],
+      [-24, '37'],
+      [-25, '3818'],
+      [-256, '38ff'],
+      [-257, '390100'],
+      [-65537, '3a00010000'],
+      [-(2 ** 32) - 1, '3b0000000100000000'],
+    ])('encodes %p', (value, expected) => {
+      expect(hex(value)).toBe(expected);
+    });
+  });
+
+  describe('floats', () => {
+    it.each([
+      [1.5, 'fb3ff8000000000000'],
+      [-0.1, 'fbbfb999999999999a'],
+      [2 ** 53, 'fb4340000000000000'],
+    ])('encodes %p as float64', (value, expected) => {
+      expect(hex(value)).toBe(expected);
+    });
+
+    it.each([NaN, Infinity, -Infinity])('encodes %p as null like JSON.stringify', value => {
+      expect(hex(value)).toBe('f6');
+      expect(hex([value])).toBe('81f6');
+    });
+  });
+
+  describe('simple values and strings', () => {
+    it('encodes booleans and null', () => {
+      expect(hex(true)).toBe('f5');
+      expect(hex(false)).toBe('f4');
+      expect(hex(null)).toBe('f6');
+    });
+
+    it('encodes string lengths in UTF-8 bytes', () => {
+      expect(hex('')).toBe('60');
+      expect(hex('a')).toBe('6161');
+      expect(hex('é')).toBe('62c3a9');
+      expect(hex('a'.repeat(24))).toBe('7818' + '61'.repeat(24));
+    });
+
+    it('grows the buffer for values larger than the initial capacity', () => {
+      const encoded = encodeCbor('x'.repeat(70000));
+      expect(encoded.length).toBe(5 + 70000);
+      expect(encoded.subarray(0, 5).toString('hex')).toBe('7a00011170');
+      expect(encoded[encoded.length - 1]).toBe(0x78);
+    });
+  });
+
+  describe('arrays and maps', () => {
+    it('uses the same header boundaries for container lengths', () => {
+      expect(hex([])).toBe('80');
+      expect(hex(new Array(24).fill(0))).toBe('9818' + '00'.repeat(24));
+      expect(hex({})).toBe('a0');
+      expect(hex({ a: 1, b: [true] })).toBe('a2' + '6161' + '01' + '6162' + '81f5');
+    });
+
+    it('converts nested Dates through toJSON', () => {
+      const at = new Date('2024-01-02T03:04:05.000Z');
+      const iso = Buffer.from(at.toISOString()).toString('hex');
+
+      expect(hex({ product: { updatedAt: at } })).toBe(
+        'a1' + '6770726f64756374' + 'a1' + '69757064617465644174' + '7818' + iso,
+      );
+      expect(hex([at])).toBe('81' + '7818' + iso);
+    });
+
+    it('passes the property key to toJSON', () => {
+      expect(hex({ k: { toJSON: (key: string) => key } })).toBe('a1' + '616b' + '616b');
+    });
+  });
+
+  describe('values without a JSON form', () => {
+    it('drops undefined, function and symbol properties', () => {
+      const value = { a: 1, b: undefined, c: () => 1, d: Symbol('d') };
+
+      expect(hex(value)).toBe('a1' + '6161' + '01');
+    });
+
+    it('drops properties whose toJSON returns undefined', () => {
+      const value = { a: 1, hidden: { toJSON: () => undefined } };
+
+      expect(JSON.stringify(value)).toBe('{"a":1}');
+      expect(hex(value)).toBe('a1' + '6161' + '01');
+    });
+
+    it('writes null for array items without a JSON form', () => {
+      expect(hex([undefined, () => 1, { toJSON: () => undefined }])).toBe('83f6f6f6');
+    });
+
+    it('writes null for an undefined top-level value', () => {
+      expect(hex(undefined)).toBe('f6');
+    });
+  });
+
+  it('rejects BigInt like JSON.stringify', () => {
+    expect(() => encodeCbor({ id: BigInt(1) })).toThrow(TypeError);
+  });
+});
@@ -0,0 +1,151 @@
+/**
+ * Minimal CBOR (RFC 8949) encoder for API responses
+ */
+
+const INITIAL_CAPACITY = 64 * 1024;
+
+/**
+ * Encode a value as CBOR with the same document shape JSON.stringify would
+ * produce: toJSON() is honoured (so Dates become ISO strings), undefined and
+ * function properties are dropped, and non-finite numbers become null. A
+ * top-level value with no JSON form is written as null.
+ */
+export function encodeCbor(value: unknown): Buffer {
+  const writer = new CborWriter();
+  writer.writeValue(toJsonValue(value, ''));
+  return writer.toBuffer();
+}
+
+/**
+ * Applies toJSON() the way JSON.stringify does, before deciding whether a
+ * property is kept, so a toJSON() returning undefined drops the key.
+ */
+function toJsonValue(value: any, key: string): any {
+  if (value !== null && typeof value === 'object' && typeof value.toJSON === 'function') {
+    return value.toJSON(key);
+  }
+  return value;
+}
+
+function hasJsonForm(value: unknown): boolean {
+  const type = typeof value;
+  return type !== 'undefined' && type !== 'function' && type !== 'symbol';
+}
+
+class CborWriter {
+  private buffer = Buffer.allocUnsafe(INITIAL_CAPACITY);
+  private length = 0;
+
+  toBuffer(): Buffer {
+    return this.buffer.subarray(0, this.length);
+  }
+
+  /**
+   * Writes a value that has already been through toJsonValue. Values with no
+   * JSON form are written as null, as JSON.stringify does inside arrays.
+   */
+  writeValue(value: any): void {
+    switch (typeof value) {
+      case 'string':
+        this.writeString(value);
+        return;
+      case 'number':
+        this.writeNumber(value);
+        return;
+      case 'boolean':
+        this.writeByte(value ? 0xf5 : 0xf4);
+        return;
+      case 'bigint':
+        throw new TypeError('Do not know how to serialize a BigInt');
+      case 'undefined':
+      case 'function':
+      case 'symbol':
+        this.writeByte(0xf6);
+        return;
+    }
+
+    if (value === null) {
+      this.writeByte(0xf6);
+    } else if (Array.isArray(value)) {
+      this.writeHeader(4, value.length);
+      for (let index = 0; index < value.length; index++) {
+        this.writeValue(toJsonValue(value[index], String(index)));
+      }
+    } else {
+      const entries: [string, any][] = [];
+      for (const key of Object.keys(value)) {
+        const item = toJsonValue(value[key], key);
+        if (hasJsonForm(item)) {
+          entries.push([key, item]);
+        }
+      }
+      this.writeHeader(5, entries.length);
+      for (const [key, item] of entries) {
+        this.writeString(key);
+        this.writeValue(item);
+      }
+    }
+  }
+
+  private writeNumber(value: number): void {
+    if (!Number.isFinite(value)) {
+      this.writeByte(0xf6);
+    } else if (Number.isSafeInteger(value)) {
+      if (value >= 0) {
+        this.writeHeader(0, value);
+      } else {
+        this.writeHeader(1, -1 - value);
+      }
+    } else {
+      this.ensure(9);
+      this.buffer[this.length++] = 0xfb;
+      this.buffer.writeDoubleBE(value, this.length);
+      this.length += 8;
+    }
+  }
+
+  private writeString(value: string): void {
+    const byteLength = Buffer.byteLength(value, 'utf8');
+    this.writeHeader(3, byteLength);
+    this.ensure(byteLength);
+    this.length += this.buffer.write(value, this.length, byteLength, 'utf8');
+  }
+
+  private writeHeader(major: number, argument: number): void {
+    const type = major << 5;
+    this.ensure(9);
+
+    if (argument < 24) {
+      this.buffer[this.length++] = type | argument;
+    } else if (argument < 0x100) {
+      this.buffer[this.length++] = type | 24;
+      this.buffer[this.length++] = argument;
+    } else if (argument < 0x10000) {
+      this.buffer[this.length++] = type | 25;
+      this.buffer.writeUInt16BE(argument, this.length);
+      this.length += 2;
+    } else if (argument < 0x100000000) {
+      this.buffer[this.length++] = type | 26;
+      this.buffer.writeUInt32BE(argument, this.length);
+      this.length += 4;
+    } else {
+      this.buffer[this.length++] = type | 27;
+      this.buffer.writeBigUInt64BE(BigInt(argument), this.length);
+      this.length += 8;
+    }
+  }
+
+  private writeByte(value: number): void {
+    this.ensure(1);
+    this.buffer[this.length++] = value;
+  }
+
+  private ensure(bytes: number): void {
+    if (this.length + bytes <= this.buffer.length) {
+      return;
+    }
+    const grown = Buffer.allocUnsafe(Math.max(this.buffer.length * 2, this.length + bytes));
+    this.buffer.copy(grown, 0, 0, this.length);
+    this.buffer = grown;
+  }
+}
@@ -2,3 +2,4 @@
 export * from './date.utils';
 export * from './helpers';
 export * from './validation.utils';
+export * from './cbor.utils';
@@ -1,4 +1,4 @@
-import { NestFactory } from '@nestjs/core';
+import { NestFactory, Reflector } from '@nestjs/core';
 import { NestExpressApplication } from '@nestjs/platform-express';
 import { ValidationPipe } from '@nestjs/common';
 import { AppModule } from './app.module';
@@ -10,6 +10,7 @@ import {
   TransformInterceptor,
   LoggingInterceptor,
   TimeoutInterceptor,
+  ContentNegotiationInterceptor,
   createValidationPipe,
 } from './common';
 import { SwaggerModule, DocumentBuilder } from '@nestjs/swagger';
@@ -89,8 +90,9 @@ async function bootstrap() {
     new HttpExceptionFilter(),
   );
 
-  // Global interceptors
+  // Global interceptors (content negotiation first so it encodes the final envelope)
   app.useGlobalInterceptors(
+    new ContentNegotiationInterceptor(app.get(Reflector)),
     new LoggingInterceptor(),
     new TimeoutInterceptor(30000), // 30 second timeout
     new TransformInterceptor(),
@@ -103,6 +103,20 @@ export class ProductQueryDto extends BaseQueryDto {
   @IsBoolean()
   lowStock?: boolean;
 
+  @ApiPropertyOptional({ description: 'Minimum stock quantity filter' })
+  @IsOptional()
+  @Type(() => Number)
+  @IsNumber()
+  @Min(0)
+  minQuantity?: number;
+
+  @ApiPropertyOptional({ description: 'Maximum stock quantity filter' })
+  @IsOptional()
+  @Type(() => Number)
+  @IsNumber()
+  @Min(0)
+  maxQuantity?: number;
+
   // ========== Price Filters ==========
 
   @ApiPropertyOptional({ description: 'Minimum price filter' })
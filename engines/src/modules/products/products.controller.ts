@@ -61,11 +61,13 @@ import {
   CollectionResponseDto,
   ActionResponseDto 
 } from '../../common/dto';
+import { BinaryContent } from '../../common/decorators';
 
 @ApiTags('Products')
 @Controller('products')
 @UseGuards(JwtAuthGuard, RolesGuard)
 @ApiBearerAuth()
+@BinaryContent()
 export class ProductsController {
   constructor(
     private readonly productsService: ProductsService,
@@ -205,6 +205,15 @@ export class ProductsService {
       }
     }
 
+    // Apply stock quantity range
+    if (query.minQuantity !== undefined) {
+      queryBuilder.andWhere('product.quantity >= :minQuantity', { minQuantity: query.minQuantity });
+    }
+
+    if (query.maxQuantity !== undefined) {
+      queryBuilder.andWhere('product.quantity <= :maxQuantity', { maxQuantity: query.maxQuantity });
+    }
+
     // Apply tags filter
     if (query.tags && query.tags.length > 0) {
       queryBuilder.andWhere('product.tags && :tags', { tags: query.tags });
@@ -28,9 +28,11 @@ import {
   VariantTemplateResponseDto,
 } from './dto/variant-template.dto';
 import { ActionResponseDto, CollectionResponse } from '../../common/dto';
+import { BinaryContent } from '../../common/decorators';
 
 @ApiTags('Variant Templates')
 @Controller('variant-templates')
+@BinaryContent()
 export class VariantTemplateController {
   constructor(private readonly templateService: VariantTemplateService) {}
 
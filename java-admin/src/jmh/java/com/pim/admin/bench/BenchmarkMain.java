@@ -0,0 +1,46 @@
+package com.pim.admin.bench;
+
+import com.pim.admin.config.WireFormat;
+import com.pim.admin.loadtest.SyntheticCatalog;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Runs JMH with the usual command line options, then prints the payload size
+ * of each format for the PayloadFormatBenchmark fixtures. Sizes follow any
+ * -p products=... / -p format=... overrides, else the @Param defaults.
+ */
+public class BenchmarkMain {
+    
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions options = new CommandLineOptions(args);
+        new Runner(options).run();
+        printPayloadSizes(paramValues(options, "products"), paramValues(options, "format"));
+    }
+    
+    private static Collection<String> paramValues(CommandLineOptions options, String name) throws Exception {
+        Param defaults = PayloadFormatBenchmark.class.getDeclaredField(name).getAnnotation(Param.class);
+        return options.getParameter(name).orElse(Arrays.asList(defaults.value()));
+    }
+    
+    private static void printPayloadSizes(Collection<String> productCounts, Collection<String> formats)
+            throws Exception {
+        System.out.println();
+        System.out.printf("%-10s %8s %14s %8s%n", "format", "products", "payload bytes", "vs JSON");
+        
+        for (String count : productCounts) {
+            int products = Integer.parseInt(count.trim());
+            Object response = SyntheticCatalog.productList(products, 42L);
+            long jsonBytes = PayloadFormatBenchmark.createMapper(WireFormat.JSON).writeValueAsBytes(response).length;
+            
+            for (String name : formats) {
+                WireFormat format = WireFormat.valueOf(name.trim());
+                long bytes = PayloadFormatBenchmark.createMapper(format).writeValueAsBytes(response).length;
+                System.out.printf("%-10s %8d %,14d %7.0f%%%n", format, products, bytes, 100.0 * bytes / jsonBytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.pim.admin.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pim.admin.config.ApiConfig;
+import com.pim.admin.config.WireFormat;
+import com.pim.admin.loadtest.SyntheticCatalog;
+import com.pim.admin.models.ApiResponse;
+import com.pim.admin.models.Product;
+import org.openjdk.jmh.annotations.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares JSON, Smile and CBOR for the product list payload:
+ * decode/encode time per format. BenchmarkMain prints the matching payload
+ * sizes after the JMH results.
+ *
+ * Run with: mvn -Pbenchmarks test-compile exec:exec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadFormatBenchmark {
+    
+    static final TypeReference<ApiResponse<List<Product>>> PRODUCT_LIST =
+        new TypeReference<ApiResponse<List<Product>>>() {};
+    
+    @Param({"100", "5000"})
+    private int products;
+    
+    @Param({"JSON", "SMILE", "CBOR"})
+    private WireFormat format;
+    
+    private ObjectMapper mapper;
+    private ObjectReader reader;
+    private ApiResponse<List<Product>> response;
+    private byte[] payload;
+    
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        mapper = createMapper(format);
+        reader = mapper.readerFor(PRODUCT_LIST);
+        
+        response = SyntheticCatalog.productList(products, 42L);
+        payload = mapper.writeValueAsBytes(response);
+    }
+    
+    @Benchmark
+    public ApiResponse<List<Product>> decode() throws Exception {
+        return reader.readValue(payload);
+    }
+    
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return mapper.writeValueAsBytes(response);
+    }
+    
+    static ObjectMapper createMapper(WireFormat format) {
+        ObjectMapper mapper = format.createMapper();
+        ApiConfig.configureMapper(mapper);
+        // Dates as ISO strings, like the engines API sends them
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return mapper;
+    }
+}
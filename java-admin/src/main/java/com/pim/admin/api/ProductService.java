@@ -3,14 +3,17 @@ package com.pim.admin.api;
 import retrofit2.Call;
 import retrofit2.http.*;
 import com.pim.admin.models.ApiResponse;
+import com.pim.admin.models.PagedResult;
 import com.pim.admin.models.Product;
-import java.util.List;
 import java.util.Map;
 
 public interface ProductService {
     
     @GET("products")
-    Call<ApiResponse<List<Product>>> getProducts();
+    Call<ApiResponse<PagedResult<Product>>> getProducts();
+    
+    @GET("products")
+    Call<ApiResponse<PagedResult<Product>>> getProducts(@QueryMap Map<String, String> query);
     
     @GET("products/{id}")
     Call<ApiResponse<Product>> getProduct(@Path("id") String id);
@@ -26,4 +29,10 @@ public interface ProductService {
     
     @PATCH("products/{id}/status")
     Call<ApiResponse<Product>> updateStatus(@Path("id") String id, @Body Map<String, String> status);
+    
+    @PATCH("products/{id}/stock")
+    Call<ApiResponse<Product>> updateStock(@Path("id") String id, @Body Map<String, Integer> stock);
+    
+    @PATCH("products/bulk/status")
+    Call<ApiResponse<Map<String, Object>>> bulkUpdateStatus(@Body Map<String, Object> request);
 }
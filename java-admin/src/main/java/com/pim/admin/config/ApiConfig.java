@@ -1,7 +1,6 @@
 package com.pim.admin.config;
 
 import retrofit2.Retrofit;
-import retrofit2.converter.jackson.JacksonConverterFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
@@ -12,9 +11,11 @@ import java.util.concurrent.TimeUnit;
 public class ApiConfig {
     
     // Match React admin configuration
-    private static final String BASE_URL = "http://localhost:3010/api/";
+    public static final String BASE_URL = "http://localhost:3010/api/";
     private static Retrofit retrofit;
     private static String authToken;
+    // Preferred response encoding, e.g. -Dpim.api.format=smile; JSON when unset
+    private static final WireFormat WIRE_FORMAT = WireFormat.fromName(System.getProperty("pim.api.format"));
     
     public static void initialize() {
         OkHttpClient client = new OkHttpClient.Builder()
@@ -24,7 +25,8 @@ public class ApiConfig {
             .addInterceptor(chain -> {
                 Request original = chain.request();
                 Request.Builder builder = original.newBuilder()
-                    .header("Content-Type", "application/json");
+                    .header("Content-Type", "application/json")
+                    .header("Accept", WIRE_FORMAT.getAcceptHeader());
                 
                 if (authToken != null) {
                     builder.header("Authorization", "Bearer " + authToken);
@@ -38,17 +40,24 @@ public class ApiConfig {
             })
             .build();
         
-        ObjectMapper mapper = new ObjectMapper();
+        retrofit = buildRetrofit(BASE_URL, client);
+    }
+    
+    // Also used by tools that need their own HTTP client (e.g. the load tester)
+    public static Retrofit buildRetrofit(String baseUrl, OkHttpClient client) {
+        return new Retrofit.Builder()
+            .baseUrl(baseUrl)
+            .client(client)
+            .addConverterFactory(NegotiatingConverterFactory.create(ApiConfig::configureMapper))
+            .build();
+    }
+    
+    // Shared by the JSON, Smile and CBOR mappers
+    public static void configureMapper(ObjectMapper mapper) {
         mapper.registerModule(new JavaTimeModule());
         // Configure to ignore unknown properties
         mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
         mapper.configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true);
-        
-        retrofit = new Retrofit.Builder()
-            .baseUrl(BASE_URL)
-            .client(client)
-            .addConverterFactory(JacksonConverterFactory.create(mapper))
-            .build();
     }
     
     public static <T> T createService(Class<T> serviceClass) {
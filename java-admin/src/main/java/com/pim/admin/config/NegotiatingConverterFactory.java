@@ -0,0 +1,65 @@
+package com.pim.admin.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import okhttp3.MediaType;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import retrofit2.Converter;
+import retrofit2.Retrofit;
+import retrofit2.converter.jackson.JacksonConverterFactory;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Jackson converter that decodes each response with the mapper matching its
+ * Content-Type (JSON, Smile or CBOR). Request bodies are always sent as JSON.
+ */
+public class NegotiatingConverterFactory extends Converter.Factory {
+    
+    private final Map<WireFormat, ObjectMapper> mappers = new EnumMap<>(WireFormat.class);
+    private final JacksonConverterFactory requestConverters;
+    
+    private NegotiatingConverterFactory(Consumer<ObjectMapper> configurer) {
+        for (WireFormat format : WireFormat.values()) {
+            ObjectMapper mapper = format.createMapper();
+            configurer.accept(mapper);
+            mappers.put(format, mapper);
+        }
+        requestConverters = JacksonConverterFactory.create(mappers.get(WireFormat.JSON));
+    }
+    
+    public static NegotiatingConverterFactory create(Consumer<ObjectMapper> configurer) {
+        return new NegotiatingConverterFactory(configurer);
+    }
+    
+    @Override
+    public Converter<ResponseBody, ?> responseBodyConverter(Type type, Annotation[] annotations,
+                                                            Retrofit retrofit) {
+        Map<WireFormat, ObjectReader> readers = new EnumMap<>(WireFormat.class);
+        for (Map.Entry<WireFormat, ObjectMapper> entry : mappers.entrySet()) {
+            JavaType javaType = entry.getValue().getTypeFactory().constructType(type);
+            readers.put(entry.getKey(), entry.getValue().readerFor(javaType));
+        }
+        
+        return body -> {
+            try (body) {
+                MediaType contentType = body.contentType();
+                WireFormat format = contentType == null
+                    ? WireFormat.JSON
+                    : WireFormat.fromMediaType(contentType.type(), contentType.subtype());
+                return readers.get(format).readValue(body.byteStream());
+            }
+        };
+    }
+    
+    @Override
+    public Converter<?, RequestBody> requestBodyConverter(Type type, Annotation[] parameterAnnotations,
+                                                          Annotation[] methodAnnotations, Retrofit retrofit) {
+        return requestConverters.requestBodyConverter(type, parameterAnnotations, methodAnnotations, retrofit);
+    }
+}
@@ -0,0 +1,68 @@
+package com.pim.admin.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Response encodings the client can ask the API for.
+ * Binary formats are only a preference: the server may still answer with JSON.
+ */
+public enum WireFormat {
+    
+    JSON("application/json"),
+    SMILE("application/x-jackson-smile"),
+    CBOR("application/cbor");
+    
+    private final String mediaType;
+    
+    WireFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+    
+    public String getMediaType() {
+        return mediaType;
+    }
+    
+    // Preferred type first, JSON as fallback
+    public String getAcceptHeader() {
+        if (this == JSON) {
+            return mediaType;
+        }
+        return mediaType + ", application/json;q=0.9";
+    }
+    
+    public ObjectMapper createMapper() {
+        switch (this) {
+            case SMILE:
+                return new ObjectMapper(new SmileFactory());
+            case CBOR:
+                return new ObjectMapper(new CBORFactory());
+            default:
+                return new ObjectMapper(new JsonFactory());
+        }
+    }
+    
+    public static WireFormat fromMediaType(String type, String subtype) {
+        String value = (type + "/" + subtype).toLowerCase();
+        for (WireFormat format : values()) {
+            if (format.mediaType.equals(value)) {
+                return format;
+            }
+        }
+        return JSON;
+    }
+    
+    public static WireFormat fromName(String name) {
+        if (name == null || name.isBlank()) {
+            return JSON;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.out.println("[API] Unknown wire format '" + name + "', using JSON");
+            return JSON;
+        }
+    }
+}
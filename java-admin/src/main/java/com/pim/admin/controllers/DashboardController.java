@@ -7,15 +7,15 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.application.Platform;
 import com.pim.admin.models.Product;
-import com.pim.admin.models.ApiResponse;
 import com.pim.admin.api.ProductService;
 import com.pim.admin.config.ApiConfig;
-import retrofit2.Call;
-import retrofit2.Callback;
-import retrofit2.Response;
-import java.util.List;
+import com.pim.admin.services.ProductQuery;
+import com.pim.admin.services.ProductQueryService;
+import com.pim.admin.services.QueryResult;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class DashboardController {
     
@@ -29,18 +29,41 @@ public class DashboardController {
     @FXML private TableColumn<Product, Boolean> featuredColumn;
     @FXML private TableColumn<Product, Void> actionsColumn;
     @FXML private TextField searchField;
+    @FXML private TextField brandField;
+    @FXML private ComboBox<String> statusFilter;
+    @FXML private CheckBox featuredFilter;
+    @FXML private TextField minStockField;
+    @FXML private TextField maxStockField;
+    @FXML private Button prevButton;
+    @FXML private Button nextButton;
     @FXML private Label statusLabel;
     @FXML private Label timeLabel;
     @FXML private Label pageLabel;
     
     private ObservableList<Product> products = FXCollections.observableArrayList();
     private ProductService productService;
+    private ProductQueryService queryService;
+    private int currentPage = 1;
+    private boolean hasNextPage;
+    // Bumped on the FX thread for every load; results from older loads are dropped
+    private long loadGeneration;
+    
+    private final ExecutorService loader = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private static final int PAGE_SIZE = 50;
+    private static final String ANY_STATUS = "Any status";
     
     @FXML
     public void initialize() {
         productService = ApiConfig.createService(ProductService.class);
+        queryService = new ProductQueryService(productService);
+        statusFilter.setItems(FXCollections.observableArrayList(ANY_STATUS, "draft", "published", "archived"));
         setupTable();
-        loadProducts();
+        loadProducts(1);
         updateTime();
     }
     
@@ -56,45 +79,97 @@ public class DashboardController {
         productsTable.setItems(products);
     }
     
-    private void loadProducts() {
+    private void loadProducts(int page) {
+        ProductQuery query;
+        try {
+            query = buildQuery(page);
+        } catch (NumberFormatException e) {
+            showAlert("Invalid Filter", "Stock limits must be whole numbers");
+            return;
+        }
+        
+        long generation = ++loadGeneration;
         statusLabel.setText("Loading products...");
+        prevButton.setDisable(true);
+        nextButton.setDisable(true);
         
-        productService.getProducts().enqueue(new Callback<ApiResponse<List<Product>>>() {
-            @Override
-            public void onResponse(Call<ApiResponse<List<Product>>> call, 
-                                 Response<ApiResponse<List<Product>>> response) {
+        // Filters the server supports are pushed down; the query blocks while paging
+        loader.execute(() -> {
+            try {
+                QueryResult result = queryService.execute(query);
                 Platform.runLater(() -> {
-                    if (response.isSuccessful() && response.body() != null) {
-                        ApiResponse<List<Product>> apiResponse = response.body();
-                        if (apiResponse.isSuccess()) {
-                            products.clear();
-                            products.addAll(apiResponse.getData());
-                            statusLabel.setText("Loaded " + products.size() + " products");
-                        } else {
-                            showAlert("Error", apiResponse.getMessage());
-                        }
+                    if (generation != loadGeneration) {
+                        return;
+                    }
+                    currentPage = page;
+                    products.setAll(result.getItems());
+                    hasNextPage = result.hasMore();
+                    updatePager();
+                    if (result.isTruncated()) {
+                        statusLabel.setText("Showing matches from the first " + result.getServerRows()
+                            + " products; narrow the filters to see the rest");
+                    } else {
+                        statusLabel.setText("Loaded " + products.size() + " products"
+                            + (result.isFromCache() ? " (cached)" : ""));
                     }
                 });
-            }
-            
-            @Override
-            public void onFailure(Call<ApiResponse<List<Product>>> call, Throwable t) {
+            } catch (Exception e) {
                 Platform.runLater(() -> {
-                    showAlert("Connection Error", t.getMessage());
+                    if (generation != loadGeneration) {
+                        return;
+                    }
+                    updatePager();
+                    showAlert("Connection Error", e.getMessage());
                     statusLabel.setText("Failed to load products");
                 });
             }
         });
     }
     
+    private ProductQuery buildQuery(int page) {
+        String status = statusFilter.getValue();
+        return ProductQuery.builder()
+            .search(searchField.getText())
+            .brand(brandField.getText())
+            .status(ANY_STATUS.equals(status) ? null : status)
+            .featured(featuredFilter.isSelected() ? Boolean.TRUE : null)
+            .quantityBetween(parseStock(minStockField), parseStock(maxStockField))
+            .page(page)
+            .limit(PAGE_SIZE)
+            .build();
+    }
+    
+    private Integer parseStock(TextField field) {
+        String text = field.getText();
+        return text == null || text.isBlank() ? null : Integer.valueOf(text.trim());
+    }
+    
+    private void updatePager() {
+        pageLabel.setText("Page " + currentPage);
+        prevButton.setDisable(currentPage <= 1);
+        nextButton.setDisable(!hasNextPage);
+    }
+    
     @FXML
     public void handleRefresh() {
-        loadProducts();
+        queryService.invalidate();
+        loadProducts(currentPage);
     }
     
     @FXML
     public void handleSearch() {
-        // Implement search functionality
+        loadProducts(1);
+    }
+    
+    @FXML
+    public void handleClearFilters() {
+        searchField.clear();
+        brandField.clear();
+        statusFilter.setValue(null);
+        featuredFilter.setSelected(false);
+        minStockField.clear();
+        maxStockField.clear();
+        handleSearch();
     }
     
     @FXML
@@ -104,7 +179,7 @@ public class DashboardController {
     
     @FXML
     public void handleViewProducts() {
-        loadProducts();
+        handleClearFilters();
     }
     
     @FXML
@@ -128,12 +203,16 @@ public class DashboardController {
     
     @FXML
     public void handlePrevPage() {
-        // Implement pagination
+        if (currentPage > 1) {
+            loadProducts(currentPage - 1);
+        }
     }
     
     @FXML
     public void handleNextPage() {
-        // Implement pagination
+        if (hasNextPage) {
+            loadProducts(currentPage + 1);
+        }
     }
     
     private void updateTime() {
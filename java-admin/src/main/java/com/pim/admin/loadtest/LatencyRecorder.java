@@ -0,0 +1,144 @@
+package com.pim.admin.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency histograms in microseconds.
+ *
+ * Response time is measured from the request's intended start in the open-loop
+ * schedule, so time spent queued behind slow requests is counted (coordinated
+ * omission correction). Service time is measured from the actual send.
+ */
+public class LatencyRecorder {
+    
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9, 99.99};
+    
+    private final Map<Operation, Histogram> responseTimes = new EnumMap<>(Operation.class);
+    private final Map<Operation, Histogram> serviceTimes = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final Recorder intervalRecorder = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    private Histogram intervalHistogram;
+    
+    public LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            responseTimes.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            serviceTimes.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(operation, new LongAdder());
+        }
+    }
+    
+    public void record(Operation operation, long intendedStartNanos, long sendNanos, long endNanos,
+                       boolean success) {
+        long responseMicros = toMicros(endNanos - intendedStartNanos);
+        responseTimes.get(operation).recordValue(responseMicros);
+        serviceTimes.get(operation).recordValue(toMicros(endNanos - sendNanos));
+        intervalRecorder.recordValue(responseMicros);
+        
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+    
+    // One-line summary of the responses completed since the previous call
+    public synchronized void printInterval(PrintStream out, double elapsedSeconds, double intervalSeconds) {
+        intervalHistogram = intervalRecorder.getIntervalHistogram(intervalHistogram);
+        long count = intervalHistogram.getTotalCount();
+        
+        out.printf("[%7.1fs] %8.1f req/s  p50=%.2fms  p99=%.2fms  max=%.2fms%n",
+            elapsedSeconds,
+            count / intervalSeconds,
+            millis(intervalHistogram.getValueAtPercentile(50.0)),
+            millis(intervalHistogram.getValueAtPercentile(99.0)),
+            millis(intervalHistogram.getMaxValue()));
+    }
+    
+    public void printReport(PrintStream out, double elapsedSeconds) {
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        long totalErrors = 0;
+        
+        out.println();
+        out.printf("%-12s %9s %7s %9s", "operation", "count", "errors", "req/s");
+        for (double percentile : PERCENTILES) {
+            out.printf(" %10s", "p" + format(percentile));
+        }
+        out.printf(" %10s%n", "max");
+        
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = responseTimes.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            long operationErrors = errors.get(operation).sum();
+            printRow(out, operation.getKey(), histogram, operationErrors, elapsedSeconds);
+            total.add(histogram);
+            totalErrors += operationErrors;
+        }
+        printRow(out, "total", total, totalErrors, elapsedSeconds);
+        
+        out.println();
+        out.println("Latencies in ms, measured from intended start (coordinated omission corrected).");
+        for (Operation operation : Operation.values()) {
+            Histogram service = serviceTimes.get(operation);
+            if (service.getTotalCount() > 0) {
+                out.printf("  %-12s service time p50=%.2fms p99=%.2fms%n", operation.getKey(),
+                    millis(service.getValueAtPercentile(50.0)), millis(service.getValueAtPercentile(99.0)));
+            }
+        }
+    }
+    
+    // Percentile distributions in the .hgrm format read by HdrHistogram plotters
+    public void writeHistograms(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        
+        for (Operation operation : Operation.values()) {
+            writeHistogram(directory.resolve(operation.getKey() + ".response.hgrm"), responseTimes.get(operation));
+            writeHistogram(directory.resolve(operation.getKey() + ".service.hgrm"), serviceTimes.get(operation));
+        }
+    }
+    
+    private void writeHistogram(Path file, Histogram histogram) throws IOException {
+        if (histogram.getTotalCount() == 0) {
+            return;
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        }
+    }
+    
+    private void printRow(PrintStream out, String name, Histogram histogram, long errorCount,
+                          double elapsedSeconds) {
+        out.printf("%-12s %9d %7d %9.1f", name, histogram.getTotalCount(), errorCount,
+            histogram.getTotalCount() / elapsedSeconds);
+        for (double percentile : PERCENTILES) {
+            out.printf(" %10.2f", millis(histogram.getValueAtPercentile(percentile)));
+        }
+        out.printf(" %10.2f%n", millis(histogram.getMaxValue()));
+    }
+    
+    private static long toMicros(long nanos) {
+        return Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos)));
+    }
+    
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+    
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile)
+            ? String.valueOf((long) percentile)
+            : String.valueOf(percentile);
+    }
+}
@@ -0,0 +1,137 @@
+package com.pim.admin.loadtest;
+
+import com.pim.admin.api.ProductService;
+import retrofit2.Call;
+import retrofit2.Callback;
+import retrofit2.Response;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop request driver: requests start on a fixed schedule (uniform or
+ * Poisson arrivals) regardless of how many are still in flight, and latency
+ * is recorded against each request's scheduled start.
+ */
+public class LoadGenerator {
+    
+    public enum Arrival { UNIFORM, POISSON }
+    
+    private final ProductService productService;
+    private final SendTimes sendTimes;
+    private final RequestMix mix;
+    private final List<String> productIds;
+    private final Map<String, String> listQuery;
+    private final int bulkSize;
+    private final Arrival arrival;
+    private final double requestsPerSecond;
+    private final Random random;
+    private final AtomicLong inFlight = new AtomicLong();
+    
+    public LoadGenerator(ProductService productService, SendTimes sendTimes, RequestMix mix, List<String> productIds,
+                         int listPageSize, int bulkSize, Arrival arrival, double requestsPerSecond, long seed) {
+        if (productIds.isEmpty()) {
+            throw new IllegalArgumentException("Load generator needs at least one product id");
+        }
+        this.productService = productService;
+        this.sendTimes = sendTimes;
+        this.mix = mix;
+        this.productIds = productIds;
+        this.listQuery = Map.of("page", "1", "limit", String.valueOf(listPageSize));
+        this.bulkSize = bulkSize;
+        this.arrival = arrival;
+        this.requestsPerSecond = requestsPerSecond;
+        this.random = new Random(seed);
+    }
+    
+    /**
+     * Issues requests for the given duration, then waits up to drainTimeout
+     * for outstanding responses. Returns the number of requests still in flight.
+     */
+    public long run(Duration duration, Duration drainTimeout, LatencyRecorder recorder) {
+        // Drops entries left by synchronous setup calls and undrained earlier runs
+        sendTimes.clear();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / requestsPerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        double intended = start;
+        
+        while (intended < end) {
+            long intendedStart = (long) intended;
+            long now;
+            while ((now = System.nanoTime()) < intendedStart) {
+                LockSupport.parkNanos(intendedStart - now);
+            }
+            
+            // Requests behind schedule are sent immediately, never skipped
+            dispatch(mix.next(random), intendedStart, recorder);
+            intended += arrival == Arrival.POISSON
+                ? -Math.log(1.0 - random.nextDouble()) * meanIntervalNanos
+                : meanIntervalNanos;
+        }
+        
+        long drainDeadline = System.nanoTime() + drainTimeout.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        return inFlight.get();
+    }
+    
+    private void dispatch(Operation operation, long intendedStart, LatencyRecorder recorder) {
+        switch (operation) {
+            case LIST:
+                send(productService.getProducts(listQuery), operation, intendedStart, recorder);
+                break;
+            case GET:
+                send(productService.getProduct(randomId()), operation, intendedStart, recorder);
+                break;
+            case BULK_STATUS:
+                List<String> ids = new ArrayList<>(bulkSize);
+                for (int i = 0; i < bulkSize; i++) {
+                    ids.add(randomId());
+                }
+                String status = SyntheticCatalog.STATUSES[random.nextInt(SyntheticCatalog.STATUSES.length)];
+                send(productService.bulkUpdateStatus(Map.of("ids", ids, "status", status)),
+                    operation, intendedStart, recorder);
+                break;
+            case STOCK_PATCH:
+                send(productService.updateStock(randomId(), Map.of("quantity", random.nextInt(500))),
+                    operation, intendedStart, recorder);
+                break;
+            default:
+                throw new IllegalStateException("Unhandled operation " + operation);
+        }
+    }
+    
+    private <T> void send(Call<T> call, Operation operation, long intendedStart, LatencyRecorder recorder) {
+        long enqueueTime = System.nanoTime();
+        inFlight.incrementAndGet();
+        
+        call.enqueue(new Callback<T>() {
+            @Override
+            public void onResponse(Call<T> call, Response<T> response) {
+                long endTime = System.nanoTime();
+                recorder.record(operation, intendedStart, sendTimes.take(call.request(), enqueueTime),
+                    endTime, response.isSuccessful());
+                inFlight.decrementAndGet();
+            }
+            
+            @Override
+            public void onFailure(Call<T> call, Throwable t) {
+                long endTime = System.nanoTime();
+                recorder.record(operation, intendedStart, sendTimes.take(call.request(), enqueueTime),
+                    endTime, false);
+                inFlight.decrementAndGet();
+            }
+        });
+    }
+    
+    private String randomId() {
+        return productIds.get(random.nextInt(productIds.size()));
+    }
+}
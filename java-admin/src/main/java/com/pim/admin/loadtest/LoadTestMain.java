@@ -0,0 +1,373 @@
+package com.pim.admin.loadtest;
+
+import com.pim.admin.api.ProductService;
+import com.pim.admin.config.ApiConfig;
+import com.pim.admin.config.WireFormat;
+import com.pim.admin.models.ApiResponse;
+import com.pim.admin.models.AuthResponse;
+import com.pim.admin.models.PageMeta;
+import com.pim.admin.models.PagedResult;
+import com.pim.admin.models.Product;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import retrofit2.Call;
+import retrofit2.Response;
+import retrofit2.Retrofit;
+import retrofit2.http.Body;
+import retrofit2.http.POST;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Command line entry point for load testing the product API through the
+ * Retrofit client interfaces.
+ *
+ * mvn compile exec:java -Dexec.mainClass=com.pim.admin.loadtest.LoadTestMain \
+ *     -Dexec.args="--mock --rate 500 --duration 30"
+ */
+public class LoadTestMain {
+    
+    private static final int DISCOVERY_PAGE_SIZE = 100;
+    
+    /**
+     * The engines return /auth/login as top-level {accessToken, refreshToken, user}
+     * rather than inside the usual ApiResponse envelope, so the load test logs
+     * in through this interface instead of AuthService.
+     */
+    interface LoginService {
+        @POST("auth/login")
+        Call<AuthResponse> login(@Body Map<String, String> credentials);
+    }
+    
+    private static final String USAGE = String.join("\n",
+        "Options:",
+        "  --base-url URL          API base URL (default " + ApiConfig.BASE_URL + ")",
+        "  --mock                  serve a synthetic catalog in-process instead",
+        "  --catalog-size N        products in the mock catalog (default 10000)",
+        "  --mock-threads N        mock server worker threads (default 8)",
+        "  --mock-latency-ms N     added mock service time per request (default 0)",
+        "  --rate N                requests per second (default 100)",
+        "  --duration S            measured seconds (default 30)",
+        "  --warmup S              unrecorded warmup seconds (default 5)",
+        "  --arrival TYPE          uniform or poisson (default uniform)",
+        "  --mix SPEC              weights, e.g. list=70,get=20,bulk-status=5,stock=5",
+        "  --list-page-size N      products per list request (default 20)",
+        "  --target-ids N          distinct products to spread get/stock/bulk requests over (default 1000)",
+        "  --bulk-size N           products per bulk status request (default 10)",
+        "  --max-concurrency N     max in-flight HTTP requests (default 256)",
+        "  --format F              json, smile or cbor (default json)",
+        "  --email / --password    login credentials (default admin@test.com / Admin123!)",
+        "  --report-interval S     seconds between progress lines (default 5)",
+        "  --hgrm-dir DIR          write .hgrm percentile distributions to DIR",
+        "  --seed N                random seed (default 42)");
+    
+    public static void main(String[] args) throws Exception {
+        Settings settings;
+        try {
+            settings = Settings.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (settings.help) {
+            System.out.println(USAGE);
+            return;
+        }
+        
+        MockProductServer mockServer = null;
+        String baseUrl = settings.baseUrl;
+        if (settings.mock) {
+            mockServer = new MockProductServer(0, settings.catalogSize, settings.mockThreads, settings.mockLatencyMs);
+            mockServer.start();
+            baseUrl = mockServer.getBaseUrl();
+            System.out.println("[LoadTest] Mock server on " + baseUrl);
+        }
+        
+        OkHttpClient client = null;
+        try {
+            String[] token = new String[1];
+            SendTimes sendTimes = new SendTimes();
+            client = buildClient(settings.maxConcurrency, settings.format, token, sendTimes);
+            Retrofit retrofit = ApiConfig.buildRetrofit(baseUrl, client);
+            
+            token[0] = login(retrofit.create(LoginService.class), settings.email, settings.password);
+            
+            ProductService productService = retrofit.create(ProductService.class);
+            List<String> productIds = discoverProductIds(productService, settings.targetIds);
+            
+            LoadGenerator generator = new LoadGenerator(productService, sendTimes, settings.mix, productIds,
+                settings.listPageSize, settings.bulkSize, settings.arrival, settings.rate, settings.seed);
+            
+            System.out.printf("[LoadTest] %s req/s, mix %s, %d products, %s responses%n",
+                settings.rate, settings.mix, productIds.size(), settings.format);
+            
+            if (settings.warmup > 0) {
+                System.out.println("[LoadTest] Warming up for " + settings.warmup + "s");
+                generator.run(Duration.ofSeconds(settings.warmup), Duration.ofSeconds(30), new LatencyRecorder());
+            }
+            
+            System.out.println("[LoadTest] Measuring for " + settings.duration + "s");
+            LatencyRecorder recorder = new LatencyRecorder();
+            long outstanding = runMeasured(generator, recorder, settings.duration, settings.reportInterval);
+            
+            recorder.printReport(System.out, settings.duration);
+            if (outstanding > 0) {
+                System.out.println("[LoadTest] " + outstanding + " requests still in flight after drain timeout");
+            }
+            if (settings.hgrmDir != null) {
+                recorder.writeHistograms(settings.hgrmDir);
+                System.out.println("[LoadTest] Histograms written to " + settings.hgrmDir.toAbsolutePath());
+            }
+        } finally {
+            if (client != null) {
+                client.dispatcher().executorService().shutdown();
+                client.connectionPool().evictAll();
+            }
+            if (mockServer != null) {
+                mockServer.close();
+            }
+        }
+    }
+    
+    private static long runMeasured(LoadGenerator generator, LatencyRecorder recorder, int durationSeconds,
+                                    int reportIntervalSeconds) {
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "load-test-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        
+        if (reportIntervalSeconds > 0) {
+            reporter.scheduleAtFixedRate(
+                () -> recorder.printInterval(System.out, (System.nanoTime() - start) / 1e9, reportIntervalSeconds),
+                reportIntervalSeconds, reportIntervalSeconds, TimeUnit.SECONDS);
+        }
+        try {
+            return generator.run(Duration.ofSeconds(durationSeconds), Duration.ofSeconds(30), recorder);
+        } finally {
+            reporter.shutdownNow();
+        }
+    }
+    
+    private static OkHttpClient buildClient(int maxConcurrency, WireFormat format, String[] token,
+                                            SendTimes sendTimes) {
+        // OkHttp defaults to 5 concurrent requests per host, which would throttle the load
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxConcurrency);
+        dispatcher.setMaxRequestsPerHost(maxConcurrency);
+        
+        return new OkHttpClient.Builder()
+            .dispatcher(dispatcher)
+            .connectionPool(new ConnectionPool(maxConcurrency, 5, TimeUnit.MINUTES))
+            .connectTimeout(30, TimeUnit.SECONDS)
+            .readTimeout(30, TimeUnit.SECONDS)
+            .writeTimeout(30, TimeUnit.SECONDS)
+            .addInterceptor(sendTimes)
+            .addInterceptor(chain -> {
+                Request.Builder builder = chain.request().newBuilder()
+                    .header("Content-Type", "application/json")
+                    .header("Accept", format.getAcceptHeader());
+                if (token[0] != null) {
+                    builder.header("Authorization", "Bearer " + token[0]);
+                }
+                return chain.proceed(builder.build());
+            })
+            .build();
+    }
+    
+    private static String login(LoginService loginService, String email, String password) throws Exception {
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("email", email);
+        credentials.put("password", password);
+        
+        Response<AuthResponse> response = loginService.login(credentials).execute();
+        AuthResponse body = response.body();
+        if (!response.isSuccessful() || body == null || body.getAccessToken() == null) {
+            throw new IllegalStateException("Login failed with status " + response.code());
+        }
+        return body.getAccessToken();
+    }
+    
+    // Pages through the catalog so requests spread over many rows, not the first page
+    private static List<String> discoverProductIds(ProductService productService, int targetIds) throws Exception {
+        List<String> ids = new ArrayList<>();
+        int page = 1;
+        boolean hasNext = true;
+        
+        while (hasNext && ids.size() < targetIds) {
+            int limit = Math.min(DISCOVERY_PAGE_SIZE, targetIds - ids.size());
+            Map<String, String> query = Map.of("page", String.valueOf(page), "limit", String.valueOf(limit));
+            Response<ApiResponse<PagedResult<Product>>> response = productService.getProducts(query).execute();
+            ApiResponse<PagedResult<Product>> body = response.body();
+            if (!response.isSuccessful() || body == null || body.getData() == null || body.getData().getItems() == null) {
+                throw new IllegalStateException("Could not list products, status " + response.code());
+            }
+            
+            List<Product> items = body.getData().getItems();
+            for (Product product : items) {
+                ids.add(product.getId());
+            }
+            PageMeta meta = body.getData().getMeta();
+            hasNext = meta != null && meta.getTotalPages() != null
+                ? page < meta.getTotalPages()
+                : items.size() >= limit;
+            page++;
+        }
+        
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("No products to target; seed the catalog first");
+        }
+        return ids;
+    }
+    
+    /**
+     * Command line options, validated before anything is started so a bad
+     * value fails with usage instead of a stack trace halfway through a run.
+     */
+    private static class Settings {
+        boolean help;
+        boolean mock;
+        String baseUrl;
+        int catalogSize;
+        int mockThreads;
+        int mockLatencyMs;
+        double rate;
+        int duration;
+        int warmup;
+        LoadGenerator.Arrival arrival;
+        RequestMix mix;
+        int listPageSize;
+        int targetIds;
+        int bulkSize;
+        int maxConcurrency;
+        WireFormat format;
+        String email;
+        String password;
+        int reportInterval;
+        Path hgrmDir;
+        long seed;
+        
+        static Settings parse(String[] args) {
+            Map<String, String> options = parseArgs(args);
+            Settings settings = new Settings();
+            settings.help = options.containsKey("help");
+            settings.mock = options.containsKey("mock");
+            settings.baseUrl = options.getOrDefault("base-url", ApiConfig.BASE_URL);
+            settings.catalogSize = intOption(options, "catalog-size", 10_000, 1);
+            settings.mockThreads = intOption(options, "mock-threads", 8, 1);
+            settings.mockLatencyMs = intOption(options, "mock-latency-ms", 0, 0);
+            settings.rate = rateOption(options);
+            settings.duration = intOption(options, "duration", 30, 1);
+            settings.warmup = intOption(options, "warmup", 5, 0);
+            settings.arrival = arrivalOption(options);
+            settings.mix = RequestMix.parse(options.getOrDefault("mix", "list=70,get=20,bulk-status=5,stock=5"));
+            settings.listPageSize = intOption(options, "list-page-size", 20, 1);
+            settings.targetIds = intOption(options, "target-ids", 1000, 1);
+            settings.bulkSize = intOption(options, "bulk-size", 10, 1);
+            settings.maxConcurrency = intOption(options, "max-concurrency", 256, 1);
+            settings.format = formatOption(options);
+            settings.email = options.getOrDefault("email", "admin@test.com");
+            settings.password = options.getOrDefault("password", "Admin123!");
+            settings.reportInterval = intOption(options, "report-interval", 5, 0);
+            settings.hgrmDir = options.containsKey("hgrm-dir") ? Path.of(options.get("hgrm-dir")) : null;
+            settings.seed = longOption(options, "seed", 42);
+            return settings;
+        }
+    }
+    
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument '" + args[i] + "'");
+            }
+            String name = args[i].substring(2);
+            if (name.equals("mock") || name.equals("help")) {
+                options.put(name, "true");
+            } else if (i + 1 < args.length) {
+                options.put(name, args[++i]);
+            } else {
+                throw new IllegalArgumentException("Missing value for --" + name);
+            }
+        }
+        return options;
+    }
+    
+    private static int intOption(Map<String, String> options, String name, int fallback, int min) {
+        String value = options.get(name);
+        if (value == null) {
+            return fallback;
+        }
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " expects an integer, got '" + value + "'");
+        }
+        if (parsed < min) {
+            throw new IllegalArgumentException("--" + name + " must be at least " + min + ", got " + parsed);
+        }
+        return parsed;
+    }
+    
+    private static long longOption(Map<String, String> options, String name, long fallback) {
+        String value = options.get(name);
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--" + name + " expects an integer, got '" + value + "'");
+        }
+    }
+    
+    private static double rateOption(Map<String, String> options) {
+        String value = options.getOrDefault("rate", "100");
+        double rate;
+        try {
+            rate = Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("--rate expects a number, got '" + value + "'");
+        }
+        if (!(rate > 0) || Double.isInfinite(rate)) {
+            throw new IllegalArgumentException("--rate must be a positive number, got '" + value + "'");
+        }
+        return rate;
+    }
+    
+    private static LoadGenerator.Arrival arrivalOption(Map<String, String> options) {
+        String value = options.getOrDefault("arrival", "uniform");
+        try {
+            return LoadGenerator.Arrival.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("--arrival must be uniform or poisson, got '" + value + "'");
+        }
+    }
+    
+    // WireFormat.fromName falls back to JSON, which would silently measure the wrong format here
+    private static WireFormat formatOption(Map<String, String> options) {
+        String value = options.get("format");
+        if (value == null) {
+            return WireFormat.JSON;
+        }
+        for (WireFormat format : WireFormat.values()) {
+            if (format.name().equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("--format must be json, smile or cbor, got '" + value + "'");
+    }
+}
@@ -0,0 +1,297 @@
+package com.pim.admin.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pim.admin.config.ApiConfig;
+import com.pim.admin.config.WireFormat;
+import com.pim.admin.models.Product;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * In-process stand-in for the engines API, serving a synthetic catalog.
+ * Covers the auth and product routes the client uses, so the client side can be
+ * load tested without Postgres or the NestJS service. Answers in the first
+ * format listed in Accept that it knows (JSON, Smile or CBOR).
+ */
+public class MockProductServer implements AutoCloseable {
+    
+    private static final String API_PREFIX = "/api/";
+    private static final int DEFAULT_LIMIT = 20;
+    
+    static {
+        // Without TCP_NODELAY the JDK server adds ~40ms (Nagle + delayed ACK) to every response
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+    
+    private final List<String> productIds;
+    private final Map<String, Product> catalog = new ConcurrentHashMap<>();
+    private final Map<WireFormat, ObjectMapper> mappers = new EnumMap<>(WireFormat.class);
+    private final long serviceTimeMillis;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    
+    public MockProductServer(int port, int catalogSize, int threads, long serviceTimeMillis) throws IOException {
+        this.serviceTimeMillis = serviceTimeMillis;
+        
+        List<String> ids = new ArrayList<>(catalogSize);
+        for (Product product : SyntheticCatalog.products(catalogSize, 42L)) {
+            catalog.put(product.getId(), product);
+            ids.add(product.getId());
+        }
+        productIds = List.copyOf(ids);
+        
+        for (WireFormat format : WireFormat.values()) {
+            ObjectMapper mapper = format.createMapper();
+            ApiConfig.configureMapper(mapper);
+            // Dates as ISO strings, like the engines API sends them
+            mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+            mappers.put(format, mapper);
+        }
+        
+        executor = Executors.newFixedThreadPool(threads);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.setExecutor(executor);
+        server.createContext(API_PREFIX, this::handle);
+    }
+    
+    public void start() {
+        server.start();
+    }
+    
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + API_PREFIX;
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (serviceTimeMillis > 0) {
+                Thread.sleep(serviceTimeMillis);
+            }
+            route(exchange);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            send(exchange, 500, error("Mock server error: " + e.getMessage()));
+        }
+    }
+    
+    private void route(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String[] path = exchange.getRequestURI().getPath().substring(API_PREFIX.length()).split("/");
+        
+        if (path.length == 2 && path[0].equals("auth") && method.equals("POST")) {
+            Map<String, Object> body = readBody(exchange);
+            if (!path[1].equals("login")) {
+                send(exchange, 200, success(null));
+                return;
+            }
+            // The engines TransformInterceptor returns login tokens unwrapped
+            Map<String, Object> user = new LinkedHashMap<>();
+            user.put("id", "mock-user");
+            user.put("email", body.getOrDefault("email", "admin@test.com"));
+            user.put("role", "admin");
+            Map<String, Object> tokens = new LinkedHashMap<>();
+            tokens.put("accessToken", "mock-access-token");
+            tokens.put("refreshToken", "mock-refresh-token");
+            tokens.put("user", user);
+            send(exchange, 200, tokens);
+            return;
+        }
+        
+        if (!path[0].equals("products")) {
+            send(exchange, 404, error("Not found"));
+            return;
+        }
+        
+        if (path.length == 1 && method.equals("GET")) {
+            listProducts(exchange);
+        } else if (path.length == 3 && path[1].equals("bulk") && path[2].equals("status") && method.equals("PATCH")) {
+            bulkUpdateStatus(exchange);
+        } else if (path.length == 2 && method.equals("GET")) {
+            Product product = catalog.get(path[1]);
+            send(exchange, product != null ? 200 : 404, product != null ? success(product) : error("Product not found"));
+        } else if (path.length == 3 && method.equals("PATCH")) {
+            patchProduct(exchange, path[1], path[2]);
+        } else {
+            send(exchange, 404, error("Not found"));
+        }
+    }
+    
+    private void listProducts(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parseQuery(exchange.getRequestURI());
+        int page = Math.max(1, parseInt(query.get("page"), 1));
+        int limit = Math.max(1, parseInt(query.get("limit"), DEFAULT_LIMIT));
+        
+        int from = Math.min(productIds.size(), (page - 1) * limit);
+        int to = Math.min(productIds.size(), from + limit);
+        List<Product> items = new ArrayList<>(to - from);
+        for (String id : productIds.subList(from, to)) {
+            items.add(catalog.get(id));
+        }
+        
+        int totalPages = (productIds.size() + limit - 1) / limit;
+        Map<String, Object> meta = new LinkedHashMap<>();
+        meta.put("totalItems", productIds.size());
+        meta.put("itemCount", items.size());
+        meta.put("page", page);
+        meta.put("totalPages", totalPages);
+        meta.put("itemsPerPage", limit);
+        meta.put("hasNext", page < totalPages);
+        meta.put("hasPrevious", page > 1);
+        
+        // Same envelope as ResponseHelpers.wrapPaginated behind TransformInterceptor
+        Map<String, Object> collection = new LinkedHashMap<>();
+        collection.put("items", items);
+        collection.put("meta", meta);
+        send(exchange, 200, success(collection));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void bulkUpdateStatus(HttpExchange exchange) throws IOException {
+        Map<String, Object> request = readBody(exchange);
+        Object ids = request.get("ids");
+        Object status = request.get("status");
+        if (!(ids instanceof List) || !(status instanceof String)) {
+            send(exchange, 400, error("ids and status are required"));
+            return;
+        }
+        
+        int affected = 0;
+        for (Object id : (List<Object>) ids) {
+            Product updated = catalog.computeIfPresent(String.valueOf(id),
+                (key, product) -> updatedCopy(product, p -> p.setStatus((String) status)));
+            if (updated != null) {
+                affected++;
+            }
+        }
+        send(exchange, 200, success(Map.of("affected", affected)));
+    }
+    
+    private void patchProduct(HttpExchange exchange, String id, String field) throws IOException {
+        Map<String, Object> request = readBody(exchange);
+        Product updated;
+        
+        if (field.equals("stock") && request.get("quantity") instanceof Number) {
+            int quantity = ((Number) request.get("quantity")).intValue();
+            updated = catalog.computeIfPresent(id, (key, product) -> updatedCopy(product, p -> p.setQuantity(quantity)));
+        } else if (field.equals("status") && request.get("status") instanceof String) {
+            String status = (String) request.get("status");
+            updated = catalog.computeIfPresent(id, (key, product) -> updatedCopy(product, p -> p.setStatus(status)));
+        } else {
+            send(exchange, 400, error("Unsupported update"));
+            return;
+        }
+        
+        send(exchange, updated != null ? 200 : 404, updated != null ? success(updated) : error("Product not found"));
+    }
+    
+    // Catalog products are never modified in place: other workers may be serializing them
+    private Product updatedCopy(Product product, Consumer<Product> change) {
+        Product copy = mappers.get(WireFormat.JSON).convertValue(product, Product.class);
+        change.accept(copy);
+        copy.setUpdatedAt(LocalDateTime.now());
+        return copy;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readAllBytes();
+            if (bytes.length == 0) {
+                return new HashMap<>();
+            }
+            return mappers.get(WireFormat.JSON).readValue(bytes, Map.class);
+        }
+    }
+    
+    private void send(HttpExchange exchange, int status, Object body) throws IOException {
+        WireFormat format = negotiate(exchange.getRequestHeaders().getFirst("Accept"));
+        byte[] bytes = mappers.get(format).writeValueAsBytes(body);
+        
+        exchange.getResponseHeaders().set("Content-Type", format.getMediaType());
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+    
+    // Client lists its preferred type first, so take the first one we can encode
+    private static WireFormat negotiate(String accept) {
+        if (accept == null) {
+            return WireFormat.JSON;
+        }
+        for (String entry : accept.split(",")) {
+            String mediaType = entry.split(";", 2)[0].trim().toLowerCase();
+            for (WireFormat format : WireFormat.values()) {
+                if (format.getMediaType().equals(mediaType)) {
+                    return format;
+                }
+            }
+        }
+        return WireFormat.JSON;
+    }
+    
+    private static Map<String, Object> success(Object data) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", true);
+        body.put("data", data);
+        body.put("timestamp", LocalDateTime.now());
+        return body;
+    }
+    
+    private static Map<String, Object> error(String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("success", false);
+        body.put("message", message);
+        body.put("timestamp", LocalDateTime.now());
+        return body;
+    }
+    
+    private static Map<String, String> parseQuery(URI uri) {
+        Map<String, String> query = new HashMap<>();
+        String raw = uri.getRawQuery();
+        if (raw == null) {
+            return query;
+        }
+        for (String pair : raw.split("&")) {
+            String[] parts = pair.split("=", 2);
+            query.put(parts[0], parts.length > 1 ? URLDecoder.decode(parts[1], StandardCharsets.UTF_8) : "");
+        }
+        return query;
+    }
+    
+    private static int parseInt(String value, int fallback) {
+        try {
+            return value != null ? Integer.parseInt(value) : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
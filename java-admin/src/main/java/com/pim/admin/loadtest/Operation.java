@@ -0,0 +1,31 @@
+package com.pim.admin.loadtest;
+
+/**
+ * Request types the load generator can issue, keyed by their name in a mix spec.
+ */
+public enum Operation {
+    
+    LIST("list"),
+    GET("get"),
+    BULK_STATUS("bulk-status"),
+    STOCK_PATCH("stock");
+    
+    private final String key;
+    
+    Operation(String key) {
+        this.key = key;
+    }
+    
+    public String getKey() {
+        return key;
+    }
+    
+    public static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key.trim())) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "'");
+    }
+}
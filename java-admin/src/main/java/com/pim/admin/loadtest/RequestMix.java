@@ -0,0 +1,86 @@
+package com.pim.admin.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Weighted choice of operations, parsed from specs like
+ * {@code list=70,get=20,bulk-status=5,stock=5}.
+ */
+public class RequestMix {
+    
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+    
+    private RequestMix(Map<Operation, Integer> weights) {
+        operations = new Operation[weights.size()];
+        cumulativeWeights = new int[weights.size()];
+        
+        int index = 0;
+        int total = 0;
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            total += entry.getValue();
+            operations[index] = entry.getKey();
+            cumulativeWeights[index] = total;
+            index++;
+        }
+        totalWeight = total;
+    }
+    
+    public static RequestMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        
+        for (String part : spec.split(",")) {
+            if (part.isBlank()) {
+                continue;
+            }
+            String[] pair = part.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected name=weight in mix, got '" + part + "'");
+            }
+            int weight;
+            try {
+                weight = Integer.parseInt(pair[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Weight for '" + pair[0] + "' is not a number: '" + pair[1] + "'");
+            }
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight for '" + pair[0] + "'");
+            }
+            if (weight > 0) {
+                weights.merge(Operation.fromKey(pair[0]), weight, Integer::sum);
+            }
+        }
+        
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Request mix '" + spec + "' has no positive weights");
+        }
+        return new RequestMix(weights);
+    }
+    
+    public Operation next(Random random) {
+        int pick = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        int previous = 0;
+        for (int i = 0; i < operations.length; i++) {
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(operations[i].getKey()).append('=').append(cumulativeWeights[i] - previous);
+            previous = cumulativeWeights[i];
+        }
+        return builder.toString();
+    }
+}
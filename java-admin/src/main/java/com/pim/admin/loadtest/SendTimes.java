@@ -0,0 +1,39 @@
+package com.pim.admin.loadtest;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records when each call actually leaves the OkHttp dispatcher queue.
+ * Installed as the first application interceptor, it runs on the dispatcher
+ * thread once the call starts executing, so time spent waiting for a free
+ * dispatcher slot is counted as queueing rather than service time.
+ */
+public class SendTimes implements Interceptor {
+    
+    private final Map<Request, Long> started = new ConcurrentHashMap<>();
+    
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        // Keyed by the call's original request, which the Retrofit callback sees too
+        started.put(chain.call().request(), System.nanoTime());
+        return chain.proceed(chain.request());
+    }
+    
+    /**
+     * Removes and returns the send time of a finished call, or the fallback if
+     * the call failed before it was dispatched.
+     */
+    public long take(Request request, long fallback) {
+        Long sendTime = started.remove(request);
+        return sendTime != null ? sendTime : fallback;
+    }
+    
+    public void clear() {
+        started.clear();
+    }
+}
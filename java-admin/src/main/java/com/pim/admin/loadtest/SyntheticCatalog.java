@@ -0,0 +1,63 @@
+package com.pim.admin.loadtest;
+
+import com.pim.admin.models.ApiResponse;
+import com.pim.admin.models.Product;
+import com.pim.admin.models.VariantAxis;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic product catalogs shaped like the engines API responses.
+ * Used by the mock server and the payload benchmarks.
+ */
+public final class SyntheticCatalog {
+    
+    public static final String[] STATUSES = {"draft", "published", "archived"};
+    
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 12, 0);
+    
+    private SyntheticCatalog() {
+    }
+    
+    public static List<Product> products(int count, long seed) {
+        Random random = new Random(seed);
+        List<Product> items = new ArrayList<>(count);
+        
+        for (int i = 0; i < count; i++) {
+            Product product = new Product();
+            product.setId(new UUID(random.nextLong(), random.nextLong()).toString());
+            product.setName("Product " + i);
+            product.setSku(String.format("SKU-%06d", i));
+            product.setDescription("Synthetic product " + i + " used for load tests and benchmarks, "
+                + "with a description of typical length for the catalog.");
+            product.setPrice(BigDecimal.valueOf(random.nextInt(100_000), 2));
+            product.setQuantity(random.nextInt(500));
+            product.setUrlKey("product-" + i);
+            product.setIsFeatured(random.nextInt(10) == 0);
+            product.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+            if (i % 5 == 0) {
+                VariantAxis axis = new VariantAxis();
+                axis.setName("size");
+                axis.setValues(List.of("S", "M", "L", "XL"));
+                product.setVariantAxes(List.of(axis));
+            }
+            product.setCreatedAt(EPOCH.minusDays(random.nextInt(365)));
+            product.setUpdatedAt(EPOCH);
+            items.add(product);
+        }
+        
+        return items;
+    }
+    
+    public static ApiResponse<List<Product>> productList(int count, long seed) {
+        ApiResponse<List<Product>> response = new ApiResponse<>();
+        response.setSuccess(true);
+        response.setData(products(count, seed));
+        response.setTimestamp(EPOCH);
+        return response;
+    }
+}
@@ -0,0 +1,64 @@
+package com.pim.admin.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PageMeta {
+    
+    @JsonProperty("totalItems")
+    private Integer totalItems;
+    
+    @JsonProperty("itemCount")
+    private Integer itemCount;
+    
+    @JsonProperty("page")
+    private Integer page;
+    
+    @JsonProperty("totalPages")
+    private Integer totalPages;
+    
+    @JsonProperty("itemsPerPage")
+    private Integer itemsPerPage;
+    
+    // Getters and Setters
+    public Integer getTotalItems() {
+        return totalItems;
+    }
+    
+    public void setTotalItems(Integer totalItems) {
+        this.totalItems = totalItems;
+    }
+    
+    public Integer getItemCount() {
+        return itemCount;
+    }
+    
+    public void setItemCount(Integer itemCount) {
+        this.itemCount = itemCount;
+    }
+    
+    public Integer getPage() {
+        return page;
+    }
+    
+    public void setPage(Integer page) {
+        this.page = page;
+    }
+    
+    public Integer getTotalPages() {
+        return totalPages;
+    }
+    
+    public void setTotalPages(Integer totalPages) {
+        this.totalPages = totalPages;
+    }
+    
+    public Integer getItemsPerPage() {
+        return itemsPerPage;
+    }
+    
+    public void setItemsPerPage(Integer itemsPerPage) {
+        this.itemsPerPage = itemsPerPage;
+    }
+}
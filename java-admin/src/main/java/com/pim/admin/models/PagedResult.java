@@ -0,0 +1,35 @@
+package com.pim.admin.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * Collection payload of paginated endpoints: {@code data: {items, meta}}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PagedResult<T> {
+    
+    @JsonProperty("items")
+    private List<T> items;
+    
+    @JsonProperty("meta")
+    private PageMeta meta;
+    
+    // Getters and Setters
+    public List<T> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+    
+    public PageMeta getMeta() {
+        return meta;
+    }
+    
+    public void setMeta(PageMeta meta) {
+        this.meta = meta;
+    }
+}
@@ -0,0 +1,230 @@
+package com.pim.admin.services;
+
+import com.pim.admin.models.Product;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * Typed product filter mirroring the engines ProductQueryDto.
+ *
+ * Filters the server can evaluate become query parameters for GET /products.
+ * Everything else (several statuses at once, arbitrary predicates) is kept as a
+ * residual predicate that ProductQueryService applies to the returned rows.
+ */
+public final class ProductQuery {
+    
+    public static final int DEFAULT_LIMIT = 20;
+    
+    private final SortedMap<String, String> serverParams;
+    private final List<Predicate<Product>> residual;
+    private final int page;
+    private final int limit;
+    
+    private ProductQuery(Builder builder) {
+        this.serverParams = Collections.unmodifiableSortedMap(new TreeMap<>(builder.params));
+        this.residual = List.copyOf(builder.residual);
+        this.page = builder.page;
+        this.limit = builder.limit;
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    // Pushed-down filters and sorting, without pagination
+    public SortedMap<String, String> getServerParams() {
+        return serverParams;
+    }
+    
+    public boolean hasResidual() {
+        return !residual.isEmpty();
+    }
+    
+    public boolean matchesResidual(Product product) {
+        for (Predicate<Product> predicate : residual) {
+            if (!predicate.test(product)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    public int getPage() {
+        return page;
+    }
+    
+    public int getLimit() {
+        return limit;
+    }
+    
+    // Same filters in any order or spelling give the same key
+    public String getServerKey() {
+        StringBuilder key = new StringBuilder();
+        for (Map.Entry<String, String> entry : serverParams.entrySet()) {
+            if (key.length() > 0) {
+                key.append('&');
+            }
+            key.append(entry.getKey()).append('=').append(entry.getValue());
+        }
+        return key.toString();
+    }
+    
+    @Override
+    public String toString() {
+        return "ProductQuery{" + getServerKey() + ", residual=" + residual.size()
+            + ", page=" + page + ", limit=" + limit + "}";
+    }
+    
+    public static final class Builder {
+        
+        private final Map<String, String> params = new TreeMap<>();
+        private final List<Predicate<Product>> residual = new ArrayList<>();
+        private int page = 1;
+        private int limit = DEFAULT_LIMIT;
+        
+        private Builder() {
+        }
+        
+        public Builder search(String text) {
+            return param("search", text);
+        }
+        
+        public Builder sku(String sku) {
+            return param("sku", sku);
+        }
+        
+        public Builder type(String type) {
+            return param("type", type);
+        }
+        
+        public Builder brand(String brand) {
+            return param("brand", brand);
+        }
+        
+        public Builder manufacturer(String manufacturer) {
+            return param("manufacturer", manufacturer);
+        }
+        
+        public Builder parentId(String parentId) {
+            return param("parentId", parentId);
+        }
+        
+        public Builder status(String status) {
+            return param("status", status == null ? null : status.trim().toLowerCase());
+        }
+        
+        // The server filters on one status only; several are matched on the client
+        public Builder statuses(Collection<String> statuses) {
+            TreeSet<String> normalized = new TreeSet<>();
+            for (String status : statuses) {
+                if (status != null && !status.isBlank()) {
+                    normalized.add(status.trim().toLowerCase());
+                }
+            }
+            if (normalized.size() == 1) {
+                return status(normalized.first());
+            }
+            if (!normalized.isEmpty()) {
+                residual.add(product -> product.getStatus() != null
+                    && normalized.contains(product.getStatus().toLowerCase()));
+            }
+            return this;
+        }
+        
+        public Builder featured(Boolean featured) {
+            return param("isFeatured", featured);
+        }
+        
+        public Builder visible(Boolean visible) {
+            return param("isVisible", visible);
+        }
+        
+        public Builder active(Boolean active) {
+            return param("isActive", active);
+        }
+        
+        public Builder inStock(Boolean inStock) {
+            return param("inStock", inStock);
+        }
+        
+        public Builder priceBetween(BigDecimal min, BigDecimal max) {
+            param("minPrice", min == null ? null : min.stripTrailingZeros().toPlainString());
+            return param("maxPrice", max == null ? null : max.stripTrailingZeros().toPlainString());
+        }
+        
+        public Builder quantityBetween(Integer min, Integer max) {
+            param("minQuantity", min);
+            return param("maxQuantity", max);
+        }
+        
+        public Builder categories(String... categoryIds) {
+            return listParam("categoryIds", Arrays.asList(categoryIds));
+        }
+        
+        public Builder tags(String... tags) {
+            return listParam("tags", Arrays.asList(tags));
+        }
+        
+        // Evaluated on the client only; keep server-side filters as narrow as possible
+        public Builder where(Predicate<Product> predicate) {
+            residual.add(Objects.requireNonNull(predicate));
+            return this;
+        }
+        
+        public Builder sortBy(String field, boolean ascending) {
+            param("sortBy", field);
+            return param("sortOrder", ascending ? "ASC" : "DESC");
+        }
+        
+        public Builder page(int page) {
+            if (page < 1) {
+                throw new IllegalArgumentException("Page must be 1 or greater");
+            }
+            this.page = page;
+            return this;
+        }
+        
+        public Builder limit(int limit) {
+            if (limit < 1) {
+                throw new IllegalArgumentException("Limit must be 1 or greater");
+            }
+            this.limit = limit;
+            return this;
+        }
+        
+        public ProductQuery build() {
+            return new ProductQuery(this);
+        }
+        
+        private Builder param(String name, Object value) {
+            String text = value == null ? null : value.toString().trim();
+            if (text == null || text.isEmpty()) {
+                params.remove(name);
+            } else {
+                params.put(name, text);
+            }
+            return this;
+        }
+        
+        // Comma separated, sorted and de-duplicated as ProductQueryDto accepts it
+        private Builder listParam(String name, Collection<String> values) {
+            TreeSet<String> normalized = new TreeSet<>();
+            for (String value : values) {
+                if (value != null && !value.isBlank()) {
+                    normalized.add(value.trim());
+                }
+            }
+            return param(name, normalized.isEmpty() ? null : String.join(",", normalized));
+        }
+    }
+}
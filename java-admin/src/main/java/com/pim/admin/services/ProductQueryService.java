@@ -0,0 +1,170 @@
+package com.pim.admin.services;
+
+import com.pim.admin.api.ProductService;
+import com.pim.admin.models.ApiResponse;
+import com.pim.admin.models.PageMeta;
+import com.pim.admin.models.PagedResult;
+import com.pim.admin.models.Product;
+import retrofit2.Response;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs ProductQuery objects against GET /products.
+ *
+ * Queries without a residual predicate are answered by a single server page.
+ * Queries with one scan server pages in order, filtering on the client, until
+ * the requested page is filled. Server rows are cached per normalized query key
+ * so paging and refining the residual filter do not refetch them. A scan stops
+ * after MAX_SCAN_ROWS server rows and marks its result as truncated.
+ */
+public class ProductQueryService {
+    
+    private static final int SCAN_PAGE_SIZE = 100;
+    private static final int MAX_SCAN_ROWS = 10_000;
+    private static final int MAX_CACHED_QUERIES = 32;
+    private static final long CACHE_TTL_MILLIS = 60_000;
+    
+    private final ProductService productService;
+    private final Map<String, CachedRows> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedRows> eldest) {
+            return size() > MAX_CACHED_QUERIES;
+        }
+    };
+    
+    public ProductQueryService(ProductService productService) {
+        this.productService = productService;
+    }
+    
+    /**
+     * Blocking; call from a background thread.
+     */
+    public QueryResult execute(ProductQuery query) throws IOException {
+        return query.hasResidual() ? scan(query) : fetchPage(query);
+    }
+    
+    // Drop cached rows, e.g. after products were edited
+    public synchronized void invalidate() {
+        cache.clear();
+    }
+    
+    private QueryResult fetchPage(ProductQuery query) throws IOException {
+        String key = query.getServerKey() + "|page=" + query.getPage() + "&limit=" + query.getLimit();
+        CachedRows entry = entryFor(key);
+        
+        synchronized (entry) {
+            boolean fromCache = entry.complete;
+            if (!entry.complete) {
+                PagedResult<Product> result = fetch(query, query.getPage(), query.getLimit());
+                entry.rows.addAll(result.getItems());
+                entry.hasMore = hasNextPage(result, query.getPage(), query.getLimit());
+                entry.complete = true;
+            }
+            return new QueryResult(entry.rows, query.getPage(), entry.hasMore, entry.rows.size(), fromCache, false);
+        }
+    }
+    
+    private QueryResult scan(ProductQuery query) throws IOException {
+        CachedRows entry = entryFor(query.getServerKey() + "|scan");
+        int offset = (query.getPage() - 1) * query.getLimit();
+        // One extra match tells us whether a next page exists
+        int wanted = offset + query.getLimit() + 1;
+        
+        synchronized (entry) {
+            List<Product> matches = new ArrayList<>();
+            int scanned = 0;
+            boolean fromCache = true;
+            boolean truncated = false;
+            
+            while (true) {
+                for (; scanned < entry.rows.size() && matches.size() < wanted; scanned++) {
+                    Product product = entry.rows.get(scanned);
+                    if (query.matchesResidual(product)) {
+                        matches.add(product);
+                    }
+                }
+                if (matches.size() >= wanted || entry.complete) {
+                    break;
+                }
+                if (entry.rows.size() >= MAX_SCAN_ROWS) {
+                    System.out.println("[Query] Scan stopped after " + entry.rows.size()
+                        + " rows; narrow the server-side filters for " + query);
+                    truncated = true;
+                    break;
+                }
+                
+                // Advance the cursor only once the page is in, so a failed fetch is retried
+                PagedResult<Product> result = fetch(query, entry.nextPage, SCAN_PAGE_SIZE);
+                entry.rows.addAll(result.getItems());
+                entry.complete = !hasNextPage(result, entry.nextPage, SCAN_PAGE_SIZE);
+                entry.nextPage++;
+                fromCache = false;
+            }
+            
+            int from = Math.min(offset, matches.size());
+            int to = Math.min(offset + query.getLimit(), matches.size());
+            boolean hasMore = matches.size() > offset + query.getLimit();
+            return new QueryResult(matches.subList(from, to), query.getPage(), hasMore, entry.rows.size(), fromCache,
+                truncated);
+        }
+    }
+    
+    private PagedResult<Product> fetch(ProductQuery query, int page, int limit) throws IOException {
+        Map<String, String> params = new TreeMap<>(query.getServerParams());
+        params.put("page", String.valueOf(page));
+        params.put("limit", String.valueOf(limit));
+        
+        Response<ApiResponse<PagedResult<Product>>> response = productService.getProducts(params).execute();
+        ApiResponse<PagedResult<Product>> body = response.body();
+        if (!response.isSuccessful() || body == null) {
+            throw new IOException("Products request failed with status " + response.code());
+        }
+        if (!body.isSuccess()) {
+            throw new IOException(body.getMessage() != null ? body.getMessage() : "Products request failed");
+        }
+        
+        PagedResult<Product> result = body.getData() != null ? body.getData() : new PagedResult<>();
+        if (result.getItems() == null) {
+            result.setItems(List.of());
+        }
+        return result;
+    }
+    
+    // Prefer the server's pagination meta; a short page is only a fallback
+    private static boolean hasNextPage(PagedResult<Product> result, int page, int limit) {
+        PageMeta meta = result.getMeta();
+        if (meta != null && meta.getTotalPages() != null) {
+            return page < meta.getTotalPages();
+        }
+        if (meta != null && meta.getTotalItems() != null) {
+            return (long) page * limit < meta.getTotalItems();
+        }
+        return result.getItems().size() >= limit;
+    }
+    
+    private synchronized CachedRows entryFor(String key) {
+        CachedRows entry = cache.get(key);
+        if (entry == null || entry.isExpired()) {
+            entry = new CachedRows();
+            cache.put(key, entry);
+        }
+        return entry;
+    }
+    
+    private static class CachedRows {
+        final List<Product> rows = new ArrayList<>();
+        final long createdAt = System.currentTimeMillis();
+        int nextPage = 1;
+        boolean complete;
+        boolean hasMore;
+        
+        boolean isExpired() {
+            return System.currentTimeMillis() - createdAt > CACHE_TTL_MILLIS;
+        }
+    }
+}
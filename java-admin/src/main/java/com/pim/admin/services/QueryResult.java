@@ -0,0 +1,53 @@
+package com.pim.admin.services;
+
+import com.pim.admin.models.Product;
+import java.util.List;
+
+/**
+ * One page of products answering a ProductQuery.
+ */
+public class QueryResult {
+    
+    private final List<Product> items;
+    private final int page;
+    private final boolean hasMore;
+    private final int serverRows;
+    private final boolean fromCache;
+    private final boolean truncated;
+    
+    public QueryResult(List<Product> items, int page, boolean hasMore, int serverRows, boolean fromCache,
+                       boolean truncated) {
+        this.items = List.copyOf(items);
+        this.page = page;
+        this.hasMore = hasMore;
+        this.serverRows = serverRows;
+        this.fromCache = fromCache;
+        this.truncated = truncated;
+    }
+    
+    public List<Product> getItems() {
+        return items;
+    }
+    
+    public int getPage() {
+        return page;
+    }
+    
+    public boolean hasMore() {
+        return hasMore;
+    }
+    
+    // Rows the server returned for this query so far, before client-side filtering
+    public int getServerRows() {
+        return serverRows;
+    }
+    
+    public boolean isFromCache() {
+        return fromCache;
+    }
+    
+    // The client-side scan hit its row cap, so matches beyond these may exist on the server
+    public boolean isTruncated() {
+        return truncated;
+    }
+}